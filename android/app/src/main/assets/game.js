@@ -2179,6 +2179,10 @@ function update() {
         };
         setTimeout(checkModal, 1000);
     }    // Update enemies
+    // Flow field nativo: se recalcula en segundo plano cuando el jugador cambia de tile
+    if (window.gameMapSystem) {
+        window.gameMapSystem.updateFlowFieldTarget(player.x, player.y);
+    }
     enemies.forEach(enemy => {
         if (window.gameMapSystem) {
             const enemyTile = window.gameMapSystem.worldToTile(enemy.x, enemy.y);
@@ -2247,18 +2251,11 @@ function update() {
                     enemy.y = newPos.y;
                 }
             } else {
-                // Pathfinding A*
-                if (!enemy.path || enemy.path.length === 0 || (enemy.pathTargetX !== playerTile.x || enemy.pathTargetY !== playerTile.y)) {
-                    enemy.path = window.gameMapSystem.findPathAStar(enemyTile, playerTile);
-                    enemy.pathStep = 0;
-                    enemy.pathTargetX = playerTile.x;
-                    enemy.pathTargetY = playerTile.y;
-                }
-                // Seguir el path SOLO si existe y está activo
+                // Flow field: siguiente tile en O(1); si no está disponible, A*
+                const flowStep = window.gameMapSystem.getFlowFieldStep(enemyTile.x, enemyTile.y);
                 enemy.isFollowingPath = false;
-                if (enemy.path && enemy.path.length > 1 && enemy.pathStep < enemy.path.length) {
-                    const nextTile = enemy.path[enemy.pathStep + 1] || enemy.path[enemy.pathStep];
-                    const nextWorld = window.gameMapSystem.tileToWorld(nextTile.x, nextTile.y);
+                if (flowStep) {
+                    const nextWorld = window.gameMapSystem.tileToWorld(flowStep.x, flowStep.y);
                     const dx = nextWorld.x - enemy.x;
                     const dy = nextWorld.y - enemy.y;
                     const dist = Math.sqrt(dx * dx + dy * dy);
@@ -2271,9 +2268,37 @@ function update() {
                         enemy.x = newPos.x;
                         enemy.y = newPos.y;
                         enemy.isFollowingPath = true;
-                        // Si el enemigo está suficientemente cerca del tile objetivo, avanzar al siguiente paso
-                        if (Math.abs(enemy.x - nextWorld.x) < 4 && Math.abs(enemy.y - nextWorld.y) < 4) {
-                            enemy.pathStep++;
+                    }
+                    enemy.path = null;
+                } else {
+                    // Pathfinding A*
+                    if (!enemy.path || enemy.path.length === 0 || (enemy.pathTargetX !== playerTile.x || enemy.pathTargetY !== playerTile.y)) {
+                        enemy.path = window.gameMapSystem.findPathAStar(enemyTile, playerTile);
+                        enemy.pathStep = 0;
+                        enemy.pathTargetX = playerTile.x;
+                        enemy.pathTargetY = playerTile.y;
+                    }
+                    // Seguir el path SOLO si existe y está activo
+                    enemy.isFollowingPath = false;
+                    if (enemy.path && enemy.path.length > 1 && enemy.pathStep < enemy.path.length) {
+                        const nextTile = enemy.path[enemy.pathStep + 1] || enemy.path[enemy.pathStep];
+                        const nextWorld = window.gameMapSystem.tileToWorld(nextTile.x, nextTile.y);
+                        const dx = nextWorld.x - enemy.x;
+                        const dy = nextWorld.y - enemy.y;
+                        const dist = Math.sqrt(dx * dx + dy * dy);
+                        if (dist > 2) {
+                            const vx = (dx / dist) * enemy.speed;
+                            const vy = (dy / dist) * enemy.speed;
+                            const newPos = window.gameMapSystem.moveWithCollision(
+                                enemy.x, enemy.y, vx, vy, enemy.radius
+                            );
+                            enemy.x = newPos.x;
+                            enemy.y = newPos.y;
+                            enemy.isFollowingPath = true;
+                            // Si el enemigo está suficientemente cerca del tile objetivo, avanzar al siguiente paso
+                            if (Math.abs(enemy.x - nextWorld.x) < 4 && Math.abs(enemy.y - nextWorld.y) < 4) {
+                                enemy.pathStep++;
+                            }
                         }
                     }
                 }
@@ -63,6 +63,14 @@
         [TILE_TYPES.OBJECTIVE]: false
     };
 
+    // Flow field directions (same order as FlowFieldService: N, E, S, W)
+    const FLOW_DIRECTIONS = [
+        { x: 0, y: -1 },
+        { x: 1, y: 0 },
+        { x: 0, y: 1 },
+        { x: -1, y: 0 }
+    ];
+
     // ===================================
     // MAP SYSTEM CLASS
     // ===================================
@@ -212,6 +220,13 @@
 
             this.initialized = false;
 
+            // Flow field nativo (FlowFieldService en Android)
+            this.flowField = null;
+            this._flowFieldGridId = -1;
+            this._flowFieldTarget = null;
+            this._flowFieldPending = false;
+            this._flowFieldFetching = false;
+
             // Inicializar renderizador 2.5D si está disponible
             this.renderer3D = null;
             if (typeof window.Pseudo3DRenderer !== 'undefined') {
@@ -288,6 +303,8 @@
                 console.warn('⚠️ Map failed validation, but continuing anyway...');
             }
 
+            this._syncFlowFieldGrid();
+
             console.log('✅ Map generated successfully');
             console.log(`   - Player spawns: ${this.zones.playerSpawns.length}`);
             console.log(`   - Enemy spawns: ${this.zones.enemySpawns.length}`);
@@ -1757,6 +1774,109 @@
             ctx.restore();
         }
 
+        // ===================================
+        // NATIVE FLOW FIELD
+        // ===================================
+
+        /**
+         * Enviar la rejilla de colisión al servicio nativo (una vez por mapa)
+         * En navegador no hay bridge y los enemigos siguen usando A*
+         */
+        _syncFlowFieldGrid() {
+            this.flowField = null;
+            this._flowFieldGridId = -1;
+            this._flowFieldTarget = null;
+            this._flowFieldPending = false;
+
+            if (typeof Android === 'undefined' || typeof Android.loadFlowFieldGrid !== 'function') {
+                return;
+            }
+
+            let mask = '';
+            for (let y = 0; y < this.height; y++) {
+                for (let x = 0; x < this.width; x++) {
+                    mask += this.isWalkable(x, y) ? '0' : '1';
+                }
+            }
+            this._flowFieldGridId = Android.loadFlowFieldGrid(this.width, this.height, mask);
+        }
+
+        /**
+         * Pedir un nuevo flow field cuando el jugador cambia de tile
+         * Llamar una vez por frame con la posición del jugador
+         * @param {number} worldX - Player X position
+         * @param {number} worldY - Player Y position
+         */
+        updateFlowFieldTarget(worldX, worldY) {
+            if (this._flowFieldGridId < 0) return;
+
+            const tile = this.worldToTile(worldX, worldY);
+            const last = this._flowFieldTarget;
+            if (!last || last.x !== tile.x || last.y !== tile.y) {
+                this._flowFieldTarget = tile;
+                this._flowFieldPending = true;
+                Android.updateFlowFieldTarget(tile.x, tile.y);
+            }
+
+            if (this._flowFieldPending && !this._flowFieldFetching) {
+                this._fetchFlowField();
+            }
+        }
+
+        _fetchFlowField() {
+            this._flowFieldFetching = true;
+            const gridId = this._flowFieldGridId;
+
+            fetch('/flowfield', { cache: 'no-store' })
+                .then(response => response.status === 200 ? response.arrayBuffer() : null)
+                .then(buffer => {
+                    if (!buffer || buffer.byteLength < 16) return;
+                    const view = new DataView(buffer);
+                    // Descartar campos de un mapa anterior
+                    if (view.getInt32(4, true) !== gridId || gridId !== this._flowFieldGridId) return;
+
+                    const width = view.getUint16(8, true);
+                    const height = view.getUint16(10, true);
+                    const targetX = view.getUint16(12, true);
+                    const targetY = view.getUint16(14, true);
+                    this.flowField = {
+                        width: width,
+                        height: height,
+                        targetX: targetX,
+                        targetY: targetY,
+                        directions: new Uint8Array(buffer, 16, width * height)
+                    };
+
+                    const target = this._flowFieldTarget;
+                    if (target && target.x === targetX && target.y === targetY) {
+                        this._flowFieldPending = false;
+                    }
+                })
+                .catch(error => {
+                    console.warn('⚠️ Flow field fetch failed:', error);
+                })
+                .then(() => {
+                    this._flowFieldFetching = false;
+                });
+        }
+
+        /**
+         * Siguiente tile hacia el jugador según el flow field (lookup O(1))
+         * Devuelve null si no hay campo, el tile es inalcanzable o ya es el del jugador
+         * @param {number} tileX
+         * @param {number} tileY
+         * @returns {{x: number, y: number}|null}
+         */
+        getFlowFieldStep(tileX, tileY) {
+            const field = this.flowField;
+            if (!field || tileX < 0 || tileY < 0 || tileX >= field.width || tileY >= field.height) {
+                return null;
+            }
+            const dir = FLOW_DIRECTIONS[field.directions[tileY * field.width + tileX]];
+            if (!dir) return null;
+            return { x: tileX + dir.x, y: tileY + dir.y };
+        }
+
         // ===================================
         // SPAWN HELPERS
         // ===================================
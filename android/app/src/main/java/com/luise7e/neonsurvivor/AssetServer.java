@@ -4,16 +4,20 @@ import android.content.Context;
 import android.content.res.AssetManager;
 import android.util.Log;
 import fi.iki.elonen.NanoHTTPD;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
 public class AssetServer extends NanoHTTPD {
     private static final String TAG = "AssetServer";
+    private static final String FLOW_FIELD_URI = "flowfield";
     private final AssetManager assetManager;
+    private final FlowFieldService flowFieldService;
 
-    public AssetServer(Context context, int port) {
+    public AssetServer(Context context, int port, FlowFieldService flowFieldService) {
         super(port);
         this.assetManager = context.getAssets();
+        this.flowFieldService = flowFieldService;
     }
 
     @Override
@@ -30,6 +34,11 @@ public class AssetServer extends NanoHTTPD {
             uri = "index.html";
         }
 
+        // Latest enemy flow field (polled every few frames, so no logging here)
+        if (uri.equals(FLOW_FIELD_URI)) {
+            return serveFlowField();
+        }
+
         try {
             // Try to load the asset
             InputStream inputStream = assetManager.open(uri);
@@ -44,6 +53,19 @@ public class AssetServer extends NanoHTTPD {
         }
     }
 
+    private Response serveFlowField() {
+        byte[] data = flowFieldService != null ? flowFieldService.getSnapshot() : null;
+        Response response;
+        if (data == null) {
+            response = newFixedLengthResponse(Response.Status.NO_CONTENT, "application/octet-stream", "");
+        } else {
+            response = newFixedLengthResponse(Response.Status.OK, "application/octet-stream",
+                new ByteArrayInputStream(data), data.length);
+        }
+        response.addHeader("Cache-Control", "no-store");
+        return response;
+    }
+
     private String getMimeType(String filename) {
         if (filename.endsWith(".html")) return "text/html";
         if (filename.endsWith(".js")) return "application/javascript";
@@ -0,0 +1,248 @@
+package com.luise7e.neonsurvivor;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Flow field / distance field towards the player, computed off the JS thread.
+ *
+ * The collision grid is loaded once per map; every time the player changes tile
+ * a breadth-first search from that tile is run on a background thread and the
+ * result is published as a compact byte buffer (see {@link #getSnapshot()}).
+ * Enemies then read their next step with an O(1) lookup instead of running A*.
+ *
+ * Buffer layout (little endian):
+ * <pre>
+ *  0  'F' 'F' version reserved
+ *  4  int32  gridId
+ *  8  uint16 width, uint16 height
+ * 12  uint16 targetX, uint16 targetY
+ * 16  width*height direction bytes (DIR_*)
+ *  .. width*height uint16 distances (DISTANCE_UNREACHABLE when no path)
+ * </pre>
+ *
+ * Pure Java on purpose so it can be benchmarked on a desktop JVM.
+ */
+public class FlowFieldService {
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 16;
+
+    public static final byte DIR_NORTH = 0;
+    public static final byte DIR_EAST = 1;
+    public static final byte DIR_SOUTH = 2;
+    public static final byte DIR_WEST = 3;
+    public static final byte DIR_TARGET = 4;
+    public static final byte DIR_NONE = (byte) 0xFF;
+
+    public static final int DISTANCE_UNREACHABLE = 0xFFFF;
+    public static final int MAX_SIDE = 0x7FFF;
+
+    private static final long NO_TARGET = -1L;
+
+    // Same neighbour order as MapSystem.findPathAStar (N, E, S, W)
+    private static final int[] DX = { 0, 1, 0, -1 };
+    private static final int[] DY = { -1, 0, 1, 0 };
+
+    private final ExecutorService executor;
+    private final AtomicLong requestedTarget = new AtomicLong(NO_TARGET);
+    private final AtomicBoolean workerScheduled = new AtomicBoolean(false);
+
+    private volatile Grid grid;
+    private volatile byte[] snapshot;
+    private int nextGridId = 1;
+
+    // Scratch buffers, only touched from the worker thread
+    private int[] distances = new int[0];
+    private int[] queue = new int[0];
+
+    public FlowFieldService() {
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "FlowField");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+    }
+
+    /**
+     * Load the collision grid for a new map and drop any previous field.
+     *
+     * @param blockedMask one char per tile, row major; '1' = blocked, anything else = walkable
+     * @return id of the grid, echoed in every buffer computed for it
+     */
+    public synchronized int loadGrid(int width, int height, String blockedMask) {
+        if (width <= 0 || height <= 0 || width > MAX_SIDE || height > MAX_SIDE) {
+            throw new IllegalArgumentException("Invalid grid size: " + width + "x" + height);
+        }
+        if (blockedMask == null || blockedMask.length() != width * height) {
+            throw new IllegalArgumentException("Mask length does not match " + width + "x" + height);
+        }
+
+        boolean[] blocked = new boolean[width * height];
+        for (int i = 0; i < blocked.length; i++) {
+            blocked[i] = blockedMask.charAt(i) == '1';
+        }
+
+        int id = nextGridId++;
+        grid = new Grid(id, width, height, blocked);
+        snapshot = null;
+        requestedTarget.set(NO_TARGET);
+        return id;
+    }
+
+    /**
+     * Ask for a field towards the given tile. Cheap and non-blocking: repeated
+     * calls with the same tile are ignored and bursts collapse into one recompute
+     * of the latest tile.
+     */
+    public void requestTarget(int tileX, int tileY) {
+        Grid current = grid;
+        if (current == null || !current.contains(tileX, tileY)) {
+            return;
+        }
+
+        long packed = pack(tileX, tileY);
+        if (requestedTarget.getAndSet(packed) == packed) {
+            return;
+        }
+        if (workerScheduled.compareAndSet(false, true)) {
+            executor.execute(this::computeLatest);
+        }
+    }
+
+    /** Latest published buffer, or null while nothing has been computed for the current grid. */
+    public byte[] getSnapshot() {
+        return snapshot;
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+        grid = null;
+        snapshot = null;
+    }
+
+    private void computeLatest() {
+        workerScheduled.set(false);
+
+        Grid current = grid;
+        long target = requestedTarget.get();
+        if (current == null || target == NO_TARGET) {
+            return;
+        }
+
+        byte[] result = compute(current, unpackX(target), unpackY(target));
+
+        // Skip stale results if the map was replaced while computing
+        if (grid == current) {
+            snapshot = result;
+        }
+    }
+
+    private byte[] compute(Grid g, int targetX, int targetY) {
+        int size = g.width * g.height;
+        if (distances.length < size) {
+            distances = new int[size];
+            queue = new int[size];
+        }
+        Arrays.fill(distances, 0, size, DISTANCE_UNREACHABLE);
+
+        // Distance field: BFS from the target over walkable tiles
+        int head = 0;
+        int tail = 0;
+        int start = targetY * g.width + targetX;
+        if (!g.blocked[start]) {
+            distances[start] = 0;
+            queue[tail++] = start;
+        }
+        while (head < tail) {
+            int index = queue[head++];
+            int x = index % g.width;
+            int y = index / g.width;
+            int next = distances[index] + 1;
+            if (next >= DISTANCE_UNREACHABLE) {
+                continue;
+            }
+            for (int d = 0; d < 4; d++) {
+                int nx = x + DX[d];
+                int ny = y + DY[d];
+                if (!g.contains(nx, ny)) continue;
+                int neighbor = ny * g.width + nx;
+                if (g.blocked[neighbor] || distances[neighbor] != DISTANCE_UNREACHABLE) continue;
+                distances[neighbor] = next;
+                queue[tail++] = neighbor;
+            }
+        }
+
+        byte[] out = new byte[HEADER_SIZE + size * 3];
+        ByteBuffer buffer = ByteBuffer.wrap(out).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) 'F').put((byte) 'F').put((byte) VERSION).put((byte) 0);
+        buffer.putInt(g.id);
+        buffer.putShort((short) g.width).putShort((short) g.height);
+        buffer.putShort((short) targetX).putShort((short) targetY);
+
+        // Flow field: each tile points to its neighbour closest to the target
+        for (int index = 0; index < size; index++) {
+            int distance = distances[index];
+            byte dir = DIR_NONE;
+            if (distance == 0) {
+                dir = DIR_TARGET;
+            } else if (distance != DISTANCE_UNREACHABLE) {
+                int x = index % g.width;
+                int y = index / g.width;
+                int best = distance;
+                for (int d = 0; d < 4; d++) {
+                    int nx = x + DX[d];
+                    int ny = y + DY[d];
+                    if (!g.contains(nx, ny)) continue;
+                    int neighborDistance = distances[ny * g.width + nx];
+                    if (neighborDistance < best) {
+                        best = neighborDistance;
+                        dir = (byte) d;
+                    }
+                }
+            }
+            out[HEADER_SIZE + index] = dir;
+        }
+
+        buffer.position(HEADER_SIZE + size);
+        for (int index = 0; index < size; index++) {
+            buffer.putShort((short) distances[index]);
+        }
+        return out;
+    }
+
+    private static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private static int unpackX(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    private static int unpackY(long packed) {
+        return (int) packed;
+    }
+
+    private static final class Grid {
+        final int id;
+        final int width;
+        final int height;
+        final boolean[] blocked;
+
+        Grid(int id, int width, int height, boolean[] blocked) {
+            this.id = id;
+            this.width = width;
+            this.height = height;
+            this.blocked = blocked;
+        }
+
+        boolean contains(int x, int y) {
+            return x >= 0 && y >= 0 && x < width && y < height;
+        }
+    }
+}
@@ -47,6 +47,7 @@ public class MainActivity extends Activity {
     private boolean isAdLoading = false;
     private boolean isRewardedAdLoading = false;
     private AssetServer assetServer;
+    private final FlowFieldService flowFieldService = new FlowFieldService();
     private static final int SERVER_PORT = 8080;
     private static final int RC_SIGN_IN = 9001;
 
@@ -131,7 +132,7 @@ public class MainActivity extends Activity {
 
     private void startAssetServer() {
         try {
-            assetServer = new AssetServer(this, SERVER_PORT);
+            assetServer = new AssetServer(this, SERVER_PORT, flowFieldService);
             assetServer.start();
             Log.d(TAG, "✅ Asset server started on port " + SERVER_PORT);
         } catch (Exception e) {
@@ -522,6 +523,24 @@ public class MainActivity extends Activity {
             return rewardedAd != null;
         }
 
+        // Pathfinding de enemigos en segundo plano (resultado en /flowfield)
+        @JavascriptInterface
+        public int loadFlowFieldGrid(int width, int height, String blockedMask) {
+            try {
+                int gridId = flowFieldService.loadGrid(width, height, blockedMask);
+                Log.d(TAG, "🧭 Flow field grid loaded: " + width + "x" + height + " (id " + gridId + ")");
+                return gridId;
+            } catch (IllegalArgumentException e) {
+                Log.e(TAG, "❌ Error loading flow field grid: " + e.getMessage());
+                return -1;
+            }
+        }
+
+        @JavascriptInterface
+        public void updateFlowFieldTarget(int tileX, int tileY) {
+            flowFieldService.requestTarget(tileX, tileY);
+        }
+
         @JavascriptInterface
         public void signInWithGoogle() {
             runOnUiThread(new Runnable() {
@@ -579,6 +598,7 @@ public class MainActivity extends Activity {
             assetServer.stop();
             Log.d(TAG, "🛑 Asset server stopped");
         }
+        flowFieldService.shutdown();
         if (webView != null) {
             webView.destroy();
         }